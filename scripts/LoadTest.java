@@ -0,0 +1,87 @@
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Minimal HTTP load generator used by load-test.sh, built only on the JDK HTTP client so it runs
+ * wherever the service does (java LoadTest.java ...; JDK 11+ single-file launch).
+ *
+ * HTTP/1.1 mode: one HttpClient per connection, each with one request outstanding at a time.
+ * h2c mode: one HttpClient per connection (HTTP/2 via Upgrade), each multiplexing several streams.
+ *
+ * Usage: java LoadTest.java <url> <http1|h2c> <requests> <connections> <streams-per-connection>
+ */
+public class LoadTest {
+
+    public static void main(String[] args) throws Exception {
+        URI uri = URI.create(args[0]);
+        boolean h2c = "h2c".equals(args[1]);
+        int requests = Integer.parseInt(args[2]);
+        int connections = Integer.parseInt(args[3]);
+        int streams = h2c ? Integer.parseInt(args[4]) : 1;
+
+        HttpRequest request = HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(30)).GET().build();
+        List<HttpClient> clients = new ArrayList<>();
+        for (int i = 0; i < connections; i++) {
+            HttpClient client = HttpClient.newBuilder()
+                    .version(h2c ? HttpClient.Version.HTTP_2 : HttpClient.Version.HTTP_1_1)
+                    .build();
+            // Opens the connection (and performs the h2c upgrade) before measuring
+            HttpResponse<Void> warmup = client.send(request, HttpResponse.BodyHandlers.discarding());
+            if (h2c && warmup.version() != HttpClient.Version.HTTP_2) {
+                throw new IllegalStateException("Server did not upgrade to h2c");
+            }
+            clients.add(client);
+        }
+
+        long[] latenciesNanos = new long[requests];
+        AtomicLong failures = new AtomicLong();
+        AtomicLong next = new AtomicLong();
+        Semaphore[] windows = new Semaphore[connections];
+        for (int i = 0; i < connections; i++) {
+            windows[i] = new Semaphore(streams);
+        }
+
+        List<CompletableFuture<Void>> pending = new ArrayList<>();
+        long startNanos = System.nanoTime();
+        for (int i = 0; i < requests; i++) {
+            int connection = i % connections;
+            windows[connection].acquire();
+            int index = (int) next.getAndIncrement();
+            long sentNanos = System.nanoTime();
+            pending.add(clients.get(connection)
+                    .sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .handle((response, error) -> {
+                        latenciesNanos[index] = System.nanoTime() - sentNanos;
+                        if (error != null || response.statusCode() != 200) {
+                            failures.incrementAndGet();
+                        }
+                        windows[connection].release();
+                        return null;
+                    }));
+        }
+        CompletableFuture.allOf(pending.toArray(new CompletableFuture[0])).join();
+        double elapsedSeconds = (System.nanoTime() - startNanos) / 1e9;
+
+        Arrays.sort(latenciesNanos);
+        System.out.printf("mode=%s connections=%d streams/connection=%d requests=%d failed=%d%n",
+                args[1], connections, streams, requests, failures.get());
+        System.out.printf("finished in %.2fs, %.0f req/s%n", elapsedSeconds, requests / elapsedSeconds);
+        System.out.printf("latency ms: p50=%.2f p90=%.2f p99=%.2f max=%.2f%n",
+                percentile(latenciesNanos, 50), percentile(latenciesNanos, 90),
+                percentile(latenciesNanos, 99), latenciesNanos[requests - 1] / 1e6);
+    }
+
+    private static double percentile(long[] sortedNanos, int percentile) {
+        int index = (int) Math.ceil(percentile / 100.0 * sortedNanos.length) - 1;
+        return sortedNanos[Math.max(index, 0)] / 1e6;
+    }
+}
@@ -0,0 +1,76 @@
+#!/usr/bin/env bash
+#
+# Load-test comparison: HTTP/1.1 vs HTTP/2 cleartext (h2c) for the store-facing endpoints.
+#
+# Starts the packaged service twice on port 8080 - once with HTTP/2 disabled (the previous
+# HTTP/1.1-only setup) and once with the default configuration (h2c enabled) - and drives
+# GET /query with scripts/LoadTest.java (JDK HTTP client) in each setup.
+# Results are written to target/load-test/.
+#
+# Requirements: a JDK 11+ and a built jar (./mvnw -B package -DskipTests).
+# The SIM actuator does not need to be running: the seed /activate call fails against the
+# actuator, but its outcome is still recorded, which gives /query a record to return.
+#
+# Usage: scripts/load-test.sh [requests] [http1-connections] [h2c-connections] [h2c-streams-per-connection]
+
+set -euo pipefail
+
+REQUESTS="${1:-50000}"
+H1_CONNECTIONS="${2:-50}"
+H2_CONNECTIONS="${3:-4}"
+H2_STREAMS="${4:-25}"
+
+SCRIPT_DIR="$(cd "$(dirname "$0")" && pwd)"
+BASE_URL="http://localhost:8080"
+QUERY_URL="${BASE_URL}/query?simCardId=1"
+OUT_DIR="target/load-test"
+JAR="$(ls target/SimCardActivator-*.jar 2>/dev/null | grep -v original | head -n 1 || true)"
+
+if [ -z "${JAR}" ]; then
+    echo "No jar found in target/. Build it first: ./mvnw -B package -DskipTests" >&2
+    exit 1
+fi
+
+mkdir -p "${OUT_DIR}"
+
+load() {
+    java "${SCRIPT_DIR}/LoadTest.java" "${QUERY_URL}" "$@"
+}
+
+start_service() {
+    java -jar "${JAR}" "$@" > "${OUT_DIR}/service.log" 2>&1 &
+    SERVICE_PID=$!
+    local healthy=false
+    for _ in $(seq 1 60); do
+        if curl -sf "${BASE_URL}/actuator/health" >/dev/null 2>&1; then
+            healthy=true
+            break
+        fi
+        sleep 1
+    done
+    if [ "${healthy}" != true ]; then
+        echo "Service did not become healthy within 60s; see ${OUT_DIR}/service.log" >&2
+        kill "${SERVICE_PID}" 2>/dev/null || true
+        exit 1
+    fi
+    # Seed one record for /query to return
+    curl -s -o /dev/null -H 'Content-Type: application/json' \
+        -d '{"iccid":"1255789453849037777","customerEmail":"load@example.com"}' "${BASE_URL}/activate"
+    # Warm up the JIT before measuring
+    load http1 5000 10 1 >/dev/null
+}
+
+stop_service() {
+    kill "${SERVICE_PID}"
+    wait "${SERVICE_PID}" 2>/dev/null || true
+}
+
+echo "== HTTP/1.1 baseline (server.http2.enabled=false): ${H1_CONNECTIONS} connections"
+start_service --server.http2.enabled=false
+load http1 "${REQUESTS}" "${H1_CONNECTIONS}" 1 | tee "${OUT_DIR}/http1.txt"
+stop_service
+
+echo "== h2c (default configuration): ${H2_CONNECTIONS} connections x ${H2_STREAMS} streams"
+start_service
+load h2c "${REQUESTS}" "${H2_CONNECTIONS}" "${H2_STREAMS}" | tee "${OUT_DIR}/h2c.txt"
+stop_service
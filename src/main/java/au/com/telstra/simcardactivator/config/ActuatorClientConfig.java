@@ -0,0 +1,36 @@
+package au.com.telstra.simcardactivator.config;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * Configures the HTTP client used to call the SIM actuator microservice.
+ * Calls are bounded by connect and read timeouts so an unresponsive actuator cannot
+ * hold an activation request past the graceful shutdown drain deadline.
+ */
+@Configuration
+public class ActuatorClientConfig {
+
+    /**
+     * Creates the shared RestTemplate for actuator calls.
+     *
+     * @param builder Spring Boot's RestTemplateBuilder.
+     * @param connectTimeout Maximum time to establish a connection to the actuator.
+     * @param readTimeout Maximum time to wait for the actuator's response.
+     * @return A RestTemplate with the configured timeouts.
+     */
+    @Bean
+    public RestTemplate actuatorRestTemplate(RestTemplateBuilder builder,
+                                             @Value("${sim.actuator.connect-timeout:2s}") Duration connectTimeout,
+                                             @Value("${sim.actuator.read-timeout:5s}") Duration readTimeout) {
+        return builder
+                .setConnectTimeout(connectTimeout)
+                .setReadTimeout(readTimeout)
+                .build();
+    }
+}
@@ -0,0 +1,35 @@
+package au.com.telstra.simcardactivator.controllers;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import au.com.telstra.simcardactivator.models.StatsResponse;
+import au.com.telstra.simcardactivator.services.ActivationStatistics;
+
+/**
+ * REST Controller exposing live SIM activation statistics for operations dashboards.
+ * Figures are served from in-memory counters and never query the database.
+ */
+@RestController
+public class ActivationStatsController {
+
+    @Autowired
+    private ActivationStatistics statistics;
+
+    /**
+     * Handles GET requests to the "/stats" endpoint.
+     *
+     * Totals only count attempts whose outcome was saved to the database;
+     * attempts whose record could not be saved are reported as recordSaveFailures.
+     *
+     * @return A ResponseEntity containing totals, success ratios,
+     *         activations in the last minute and failures by cause.
+     */
+    @GetMapping("/stats")
+    public ResponseEntity<StatsResponse> getActivationStats() {
+        return new ResponseEntity<>(statistics.snapshot(), HttpStatus.OK);
+    }
+}
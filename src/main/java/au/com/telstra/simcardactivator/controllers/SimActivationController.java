@@ -11,6 +11,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
 import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestTemplate;
 
@@ -20,6 +21,9 @@ import au.com.telstra.simcardactivator.models.ActuatorResponse; // Your new Enti
 import au.com.telstra.simcardactivator.models.QueryResponse; // Your new Query DTO
 import au.com.telstra.simcardactivator.models.SimActivationRecord; // Your new Repository
 import au.com.telstra.simcardactivator.repositories.SimActivationRecordRepository; // For handling results from findById
+import au.com.telstra.simcardactivator.services.ActivationDrainCoordinator;
+import au.com.telstra.simcardactivator.services.ActivationStatistics;
+import au.com.telstra.simcardactivator.services.ActivationStatistics.FailureCause;
 
 /**
  * REST Controller to handle SIM card activation requests and query records.
@@ -37,20 +41,52 @@ private static final String ACTUATOR_URL = "http://localhost:8444/actuate";
     @Autowired // Spring will automatically create and provide an instance of SimActivationRecordRepository
 private SimActivationRecordRepository repository;
 
+    // In-memory activation counters, updated inline on every activation attempt
+    @Autowired
+private ActivationStatistics statistics;
+
+    // Shared actuator client with connect/read timeouts (see ActuatorClientConfig)
+    @Autowired
+private RestTemplate restTemplate;
+
+    // Tracks in-flight activations so shutdown can drain them before the process exits
+    @Autowired
+private ActivationDrainCoordinator drainCoordinator;
+
 /**
      * Handles POST requests to the "/activate" endpoint.
      * Receives a SIM activation request, forwards it to the actuator,
      * and records the transaction outcome in the H2 database.
+     * While the service is shutting down, new requests are refused with 503 before
+     * the actuator is called, so they can safely be retried on another instance.
      *
      * @param request The ActivationRequest object containing ICCID and customer email.
      * @return A ResponseEntity indicating the status of the activation and persistence.
      */
 @PostMapping("/activate")
 public ResponseEntity<String> activateSim(@RequestBody ActivationRequest request) {
+      if (!drainCoordinator.tryAcquire()) {
+            System.out.println("Rejected activation request during shutdown: " + request.toString());
+            return new ResponseEntity<>("Service is shutting down. Please retry the activation.", HttpStatus.SERVICE_UNAVAILABLE);
+      }
+      try {
+            return processActivation(request);
+      } finally {
+            drainCoordinator.release();
+      }
+}
+
+/**
+     * Forwards an admitted activation request to the actuator and records the outcome.
+     *
+     * @param request The ActivationRequest object containing ICCID and customer email.
+     * @return A ResponseEntity indicating the status of the activation and persistence.
+     */
+private ResponseEntity<String> processActivation(ActivationRequest request) {
       System.out.println("Received activation request: " + request.toString());
 
-      RestTemplate restTemplate = new RestTemplate();
         boolean activationSuccess = false; // Default to false
+        FailureCause failureCause = FailureCause.ACTUATOR_REJECTED; // Replaced below if the actuator call itself fails
 
       try {
             ActuatorRequest actuatorRequest = new ActuatorRequest(request.getIccid());
@@ -72,14 +108,22 @@ public ResponseEntity<String> activateSim(@RequestBody ActivationRequest request
       } catch (HttpClientErrorException e) {
             System.err.println("Error from actuator (HTTP status " + e.getStatusCode() + "): " + e.getMessage());
             // activationSuccess remains false
+            failureCause = FailureCause.ACTUATOR_CLIENT_ERROR;
+            return new ResponseEntity<>("Error communicating with actuator: " + e.getResponseBodyAsString(), HttpStatus.BAD_GATEWAY);
+      } catch (HttpServerErrorException e) {
+            System.err.println("Actuator server error (HTTP status " + e.getStatusCode() + "): " + e.getMessage());
+            // activationSuccess remains false
+            failureCause = FailureCause.ACTUATOR_SERVER_ERROR;
             return new ResponseEntity<>("Error communicating with actuator: " + e.getResponseBodyAsString(), HttpStatus.BAD_GATEWAY);
       } catch (ResourceAccessException e) {
             System.err.println("Could not connect to actuator microservice: " + e.getMessage());
             // activationSuccess remains false
+            failureCause = FailureCause.ACTUATOR_UNREACHABLE;
             return new ResponseEntity<>("Failed to connect to SIM activation service. Please check if the actuator is running.", HttpStatus.SERVICE_UNAVAILABLE);
       } catch (Exception e) {
             System.err.println("An unexpected error occurred during actuator communication: " + e.getMessage());
             // activationSuccess remains false
+            failureCause = FailureCause.UNEXPECTED_ERROR;
             return new ResponseEntity<>("An unexpected error occurred during SIM activation.", HttpStatus.INTERNAL_SERVER_ERROR);
       } finally {
             // This block ensures the record is saved REGARDLESS of actuator communication success/failure
@@ -91,8 +135,15 @@ public ResponseEntity<String> activateSim(@RequestBody ActivationRequest request
             try {
                 SimActivationRecord savedRecord = repository.save(record); // Save the record to the database
             System.out.println("Saved activation record to database: " + savedRecord.toString());
+            // Update live statistics only once the outcome is stored, so they stay in line with the database
+            if (activationSuccess) {
+                statistics.recordSuccess();
+            } else {
+                statistics.recordFailure(failureCause);
+            }
             } catch (Exception dbException) {
             System.err.println("Failed to save activation record to database: " + dbException.getMessage());
+            statistics.recordSaveFailure();
                 // Consider returning a different status if DB save is critical
             return new ResponseEntity<>("SIM activation process completed, but failed to record transaction.", HttpStatus.INTERNAL_SERVER_ERROR);
             }
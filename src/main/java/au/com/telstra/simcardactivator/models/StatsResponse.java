@@ -0,0 +1,155 @@
+package au.com.telstra.simcardactivator.models;
+import java.util.Map;
+
+// Jackson annotations for JSON mapping
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Represents the response payload for the GET /stats endpoint.
+ * This DTO carries live SIM activation totals kept in memory by the service.
+ * Totals only include attempts whose outcome was saved to the database.
+ */
+public class StatsResponse {
+
+   @JsonProperty("totalActivations")
+   private long totalActivations;
+
+   @JsonProperty("successfulActivations")
+   private long successfulActivations;
+
+   @JsonProperty("failedActivations")
+   private long failedActivations;
+
+   @JsonProperty("successRatio")
+   private double successRatio;
+
+   @JsonProperty("activationsLastMinute")
+   private long activationsLastMinute;
+
+   @JsonProperty("successRatioLastMinute")
+   private double successRatioLastMinute;
+
+   @JsonProperty("failuresByCause")
+   private Map<String, Long> failuresByCause;
+
+   @JsonProperty("recordSaveFailures")
+   private long recordSaveFailures;
+
+   /**
+     * Default no-argument constructor for JSON serialization/deserialization.
+     */
+   public StatsResponse() {
+   }
+
+   /**
+     * Parameterized constructor to create a StatsResponse object.
+     * @param totalActivations Number of activation attempts since the records began.
+     * @param successfulActivations Number of attempts that activated the SIM.
+     * @param failedActivations Number of attempts that did not activate the SIM.
+     * @param successRatio successfulActivations / totalActivations, or 0 if there were none.
+     * @param activationsLastMinute Number of activation attempts in the last 60 seconds.
+     * @param successRatioLastMinute Success ratio over the last 60 seconds, or 0 if there were none.
+     * @param failuresByCause Failed activations keyed by failure cause.
+     * @param recordSaveFailures Number of outcomes that could not be written to the database;
+     *                           these attempts are not included in the totals above.
+     */
+   public StatsResponse(long totalActivations, long successfulActivations, long failedActivations,
+                        double successRatio, long activationsLastMinute, double successRatioLastMinute,
+                        Map<String, Long> failuresByCause, long recordSaveFailures) {
+      this.totalActivations = totalActivations;
+      this.successfulActivations = successfulActivations;
+      this.failedActivations = failedActivations;
+      this.successRatio = successRatio;
+      this.activationsLastMinute = activationsLastMinute;
+      this.successRatioLastMinute = successRatioLastMinute;
+      this.failuresByCause = failuresByCause;
+      this.recordSaveFailures = recordSaveFailures;
+   }
+
+    // --- Getters ---
+
+   public long getTotalActivations() {
+      return totalActivations;
+   }
+
+   public long getSuccessfulActivations() {
+      return successfulActivations;
+   }
+
+   public long getFailedActivations() {
+      return failedActivations;
+   }
+
+   public double getSuccessRatio() {
+      return successRatio;
+   }
+
+   public long getActivationsLastMinute() {
+      return activationsLastMinute;
+   }
+
+   public double getSuccessRatioLastMinute() {
+      return successRatioLastMinute;
+   }
+
+   public Map<String, Long> getFailuresByCause() {
+      return failuresByCause;
+   }
+
+   public long getRecordSaveFailures() {
+      return recordSaveFailures;
+   }
+
+    // --- Setters ---
+
+   public void setTotalActivations(long totalActivations) {
+      this.totalActivations = totalActivations;
+   }
+
+   public void setSuccessfulActivations(long successfulActivations) {
+      this.successfulActivations = successfulActivations;
+   }
+
+   public void setFailedActivations(long failedActivations) {
+      this.failedActivations = failedActivations;
+   }
+
+   public void setSuccessRatio(double successRatio) {
+      this.successRatio = successRatio;
+   }
+
+   public void setActivationsLastMinute(long activationsLastMinute) {
+      this.activationsLastMinute = activationsLastMinute;
+   }
+
+   public void setSuccessRatioLastMinute(double successRatioLastMinute) {
+      this.successRatioLastMinute = successRatioLastMinute;
+   }
+
+   public void setFailuresByCause(Map<String, Long> failuresByCause) {
+      this.failuresByCause = failuresByCause;
+   }
+
+   public void setRecordSaveFailures(long recordSaveFailures) {
+      this.recordSaveFailures = recordSaveFailures;
+   }
+
+   /**
+     * Provides a string representation of the StatsResponse object.
+     * Useful for logging and debugging.
+     * @return A string containing the statistics.
+     */
+   @Override
+   public String toString() {
+      return "StatsResponse{" +
+            "totalActivations=" + totalActivations +
+            ", successfulActivations=" + successfulActivations +
+            ", failedActivations=" + failedActivations +
+            ", successRatio=" + successRatio +
+            ", activationsLastMinute=" + activationsLastMinute +
+            ", successRatioLastMinute=" + successRatioLastMinute +
+            ", failuresByCause=" + failuresByCause +
+            ", recordSaveFailures=" + recordSaveFailures +
+            '}';
+   }
+}
@@ -20,5 +20,14 @@ public interface SimActivationRecordRepository extends JpaRepository<SimActivati
     // No methods are needed here for basic CRUD operations.
     // Spring Data JPA automatically provides methods like save(), findById(), findAll(), deleteById(), etc.
     // Custom query methods can be added here if needed (e.g., findByIccid(String iccid)).
+
+    /**
+     * Counts records by activation outcome.
+     * Used once at startup to seed the in-memory activation statistics.
+     *
+     * @param active true to count successful activations, false to count failed ones.
+     * @return The number of matching records.
+     */
+    long countByActive(boolean active);
 }
 
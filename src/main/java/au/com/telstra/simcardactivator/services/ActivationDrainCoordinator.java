@@ -0,0 +1,165 @@
+package au.com.telstra.simcardactivator.services;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.stereotype.Component;
+
+/**
+ * Coordinates graceful shutdown of SIM activation requests.
+ *
+ * Spring Boot flips readiness to REFUSING_TRAFFIC as soon as the application context
+ * starts closing. This coordinator then runs, before the embedded web server is stopped, and:
+ * 1. Keeps serving for a short grace period so load balancers observe the readiness change.
+ * 2. Stops admitting new /activate requests (they receive 503 and can be retried on another instance).
+ * 3. Waits, up to a configurable deadline, for in-flight actuator calls and record writes to finish.
+ * Requests still running at the deadline are left to the web server's graceful shutdown phase.
+ * The drain duration, the number of rejected requests and the number still in flight at the
+ * deadline are reported once done.
+ */
+@Component
+public class ActivationDrainCoordinator implements ApplicationListener<ContextClosedEvent> {
+
+    @Autowired
+    private ActivationStatistics statistics;
+
+    // How long to keep serving after readiness flips, so load balancers can react
+    @Value("${sim.shutdown.readiness-grace-period:5s}")
+    private Duration readinessGracePeriod;
+
+    // Maximum time to wait for in-flight activations once new ones are refused
+    @Value("${sim.shutdown.drain-timeout:15s}")
+    private Duration drainTimeout;
+
+    private final Object drainMonitor = new Object();
+    private int inFlight; // Guarded by drainMonitor
+    private boolean accepting = true; // Guarded by drainMonitor
+    private boolean draining = false; // Guarded by drainMonitor; set by the first drain() caller
+    private boolean drainDeadlinePassed = false; // Guarded by drainMonitor
+    private final LongAdder rejectedDuringShutdown = new LongAdder();
+
+    /**
+     * Registers the start of an activation request.
+     * Every successful call must be paired with {@link #release()}.
+     *
+     * @return true if the request may proceed, false if the service is shutting down.
+     */
+    public boolean tryAcquire() {
+        synchronized (drainMonitor) {
+            if (!accepting) {
+                rejectedDuringShutdown.increment();
+                return false;
+            }
+            inFlight++;
+            return true;
+        }
+    }
+
+    /**
+     * Registers the end of an activation request admitted by {@link #tryAcquire()}.
+     */
+    public void release() {
+        synchronized (drainMonitor) {
+            inFlight--;
+            if (drainDeadlinePassed) {
+                // The request outlived the drain deadline but finished within the web server's graceful phase
+                System.out.println("Activation request still in flight at drain deadline has now completed; "
+                        + inFlight + " remaining");
+            }
+            if (inFlight == 0) {
+                drainMonitor.notifyAll();
+            }
+        }
+    }
+
+    /**
+     * Drains activation requests when the application context is closing.
+     * Context close runs before lifecycle beans (including the web server) are stopped.
+     *
+     * @param event The context closed event.
+     */
+    @Override
+    public void onApplicationEvent(ContextClosedEvent event) {
+        drain();
+        // Statistics only live in memory, so emit a final snapshot before the process exits
+        System.out.println("Final activation statistics: " + statistics.snapshot());
+    }
+
+    /**
+     * Waits out the readiness grace period, stops admitting new activation requests and
+     * waits for in-flight ones to finish, up to the drain timeout.
+     * Requests still running at the deadline are not interrupted; they continue into the
+     * web server's graceful shutdown phase and are logged from {@link #release()} as they complete.
+     *
+     * Only the first caller runs the drain; later or concurrent callers return at once.
+     *
+     * @return The number of requests still in flight at the drain deadline (0 if fully drained),
+     *         or the current in-flight count if another caller is running or has run the drain.
+     */
+    public int drain() {
+        synchronized (drainMonitor) {
+            if (draining) {
+                return inFlight; // Drain already started by another caller
+            }
+            draining = true;
+        }
+        long startNanos = System.nanoTime();
+        System.out.println("Shutdown started: service reported as not ready, still serving for "
+                + readinessGracePeriod.toMillis() + " ms");
+
+        try {
+            Thread.sleep(readinessGracePeriod.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        int stillInFlight;
+        synchronized (drainMonitor) {
+            accepting = false;
+            System.out.println("Refusing new activation requests; waiting for " + inFlight + " in-flight request(s)");
+            long deadline = System.nanoTime() + drainTimeout.toNanos();
+            while (inFlight > 0) {
+                long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+                if (remainingMillis <= 0) {
+                    break;
+                }
+                try {
+                    drainMonitor.wait(remainingMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+            stillInFlight = inFlight;
+            drainDeadlinePassed = stillInFlight > 0;
+        }
+
+        long drainMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+        System.out.println("Activation drain finished in " + drainMillis + " ms: "
+                + rejectedDuringShutdown.sum() + " request(s) rejected during shutdown, "
+                + stillInFlight + " request(s) still in flight at drain deadline"
+                + (stillInFlight > 0 ? " (left to complete during the web server's graceful shutdown phase)" : ""));
+        return stillInFlight;
+    }
+
+    /**
+     * @return The number of activation requests currently in flight.
+     */
+    public int getInFlight() {
+        synchronized (drainMonitor) {
+            return inFlight;
+        }
+    }
+
+    /**
+     * @return The number of activation requests refused because the service was shutting down.
+     */
+    public long getRejectedDuringShutdown() {
+        return rejectedDuringShutdown.sum();
+    }
+}
@@ -0,0 +1,194 @@
+package au.com.telstra.simcardactivator.services;
+
+import java.time.Clock;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.annotation.PostConstruct; // Runs reconciliation before the web server starts taking traffic
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import au.com.telstra.simcardactivator.models.StatsResponse;
+import au.com.telstra.simcardactivator.repositories.SimActivationRecordRepository;
+
+/**
+ * Keeps live SIM activation totals in memory so the /stats endpoint never has to
+ * run count queries over sim_activation_records.
+ *
+ * Lifetime totals use striped LongAdder counters, which stay cheap under concurrent
+ * updates from many request threads. Activations per minute come from a rolling
+ * window of one-second buckets, each also backed by LongAdders.
+ * All reads are O(1) with respect to the number of records.
+ *
+ * Only outcomes that were written to sim_activation_records are counted, so the totals
+ * match what {@link #reconcileWithDatabase()} loads after a restart.
+ */
+@Component // Single shared instance, updated inline by the activation controller
+public class ActivationStatistics {
+
+    /**
+     * Reasons an activation attempt can fail, as reported by /stats.
+     */
+    public enum FailureCause {
+        ACTUATOR_REJECTED,      // Actuator answered, but did not activate the SIM
+        ACTUATOR_CLIENT_ERROR,  // Actuator returned a 4xx HTTP status
+        ACTUATOR_SERVER_ERROR,  // Actuator returned a 5xx HTTP status
+        ACTUATOR_UNREACHABLE,   // Could not connect to the actuator
+        UNEXPECTED_ERROR,       // Any other exception while talking to the actuator
+        UNKNOWN                 // Failures loaded from the database at startup; cause was not stored
+    }
+
+    // Length of the rolling window, in one-second buckets
+    private static final int WINDOW_SECONDS = 60;
+
+    // Time source for the rolling window; replaced in tests
+    private Clock clock = Clock.systemUTC();
+
+    @Autowired // Only used once, at startup, to reconcile totals with what is already stored
+    private SimActivationRecordRepository repository;
+
+    // Lifetime totals
+    private final LongAdder successes = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder recordSaveFailures = new LongAdder();
+    private final Map<FailureCause, LongAdder> failuresByCause = new ConcurrentHashMap<>();
+
+    // Rolling window: slot (second % WINDOW_SECONDS) holds the bucket for that epoch second, or null
+    private final AtomicReferenceArray<WindowBucket> buckets = new AtomicReferenceArray<>(WINDOW_SECONDS);
+
+    /**
+     * Counts for a single epoch second. The second never changes, so a slot is relabelled
+     * and reset in one step by swapping in a fresh bucket.
+     */
+    private static final class WindowBucket {
+        private final long second;
+        private final LongAdder attempts = new LongAdder();
+        private final LongAdder successes = new LongAdder();
+
+        private WindowBucket(long second) {
+            this.second = second;
+        }
+    }
+
+    public ActivationStatistics() {
+        for (FailureCause cause : FailureCause.values()) {
+            failuresByCause.put(cause, new LongAdder());
+        }
+    }
+
+    /**
+     * Seeds the lifetime totals from records already in the database.
+     * Runs once during startup, before any activation request can be served.
+     */
+    @PostConstruct
+    public void reconcileWithDatabase() {
+        try {
+            long storedSuccesses = repository.countByActive(true);
+            long storedFailures = repository.countByActive(false);
+            successes.add(storedSuccesses);
+            failures.add(storedFailures);
+            failuresByCause.get(FailureCause.UNKNOWN).add(storedFailures);
+            System.out.println("Reconciled activation statistics with database: "
+                    + storedSuccesses + " successes, " + storedFailures + " failures");
+        } catch (Exception e) {
+            // Statistics are informational; never block startup on them
+            System.err.println("Failed to reconcile activation statistics with database: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Records a successful activation.
+     */
+    public void recordSuccess() {
+        successes.increment();
+        recordInWindow(true);
+    }
+
+    /**
+     * Records a failed activation together with its cause.
+     *
+     * @param cause Why the activation failed.
+     */
+    public void recordFailure(FailureCause cause) {
+        failures.increment();
+        failuresByCause.get(cause).increment();
+        recordInWindow(false);
+    }
+
+    /**
+     * Records that an activation outcome could not be written to the database.
+     * Such attempts are not included in the success and failure totals.
+     */
+    public void recordSaveFailure() {
+        recordSaveFailures.increment();
+    }
+
+    /**
+     * Builds a point-in-time view of the statistics. Does not touch the database.
+     *
+     * @return The current totals, rolling-window counts and failure breakdown.
+     */
+    public StatsResponse snapshot() {
+        long currentSecond = clock.millis() / 1000;
+        long windowAttempts = 0;
+        long windowSuccesses = 0;
+        for (int i = 0; i < WINDOW_SECONDS; i++) {
+            WindowBucket bucket = buckets.get(i);
+            if (bucket != null && bucket.second > currentSecond - WINDOW_SECONDS && bucket.second <= currentSecond) {
+                windowAttempts += bucket.attempts.sum();
+                windowSuccesses += bucket.successes.sum();
+            }
+        }
+
+        long totalSuccesses = successes.sum();
+        long totalFailures = failures.sum();
+        long totalAttempts = totalSuccesses + totalFailures;
+
+        Map<String, Long> causes = new TreeMap<>();
+        for (Map.Entry<FailureCause, LongAdder> entry : failuresByCause.entrySet()) {
+            causes.put(entry.getKey().name(), entry.getValue().sum());
+        }
+
+        return new StatsResponse(
+                totalAttempts,
+                totalSuccesses,
+                totalFailures,
+                ratio(totalSuccesses, totalAttempts),
+                windowAttempts,
+                ratio(windowSuccesses, windowAttempts),
+                causes,
+                recordSaveFailures.sum()
+        );
+    }
+
+    private void recordInWindow(boolean success) {
+        long currentSecond = clock.millis() / 1000;
+        int index = (int) (currentSecond % WINDOW_SECONDS);
+        WindowBucket bucket = buckets.get(index);
+        while (bucket == null || bucket.second < currentSecond) {
+            // The slot is empty or still holds an older second: replace it with a fresh bucket.
+            // If another thread wins the swap, use the bucket it installed.
+            WindowBucket fresh = new WindowBucket(currentSecond);
+            if (buckets.compareAndSet(index, bucket, fresh)) {
+                bucket = fresh;
+            } else {
+                bucket = buckets.get(index);
+            }
+        }
+        if (bucket.second != currentSecond) {
+            return; // This thread is more than a window late; the slot already belongs to a newer second
+        }
+        bucket.attempts.increment();
+        if (success) {
+            bucket.successes.increment();
+        }
+    }
+
+    private static double ratio(long part, long total) {
+        return total == 0 ? 0.0 : (double) part / total;
+    }
+}
@@ -0,0 +1,44 @@
+package au.com.telstra.simcardactivator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Verifies that the packaged runtime configuration (src/main/resources/application.properties)
+ * is active when the test profile is applied on top of it.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+public class ServerConfigurationTest {
+
+    @Autowired
+    private Environment environment;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Test
+    public void mainServerConfigurationIsLoaded() {
+        assertEquals("true", environment.getProperty("server.http2.enabled"));
+        assertEquals("true", environment.getProperty("server.compression.enabled"));
+        // Datasource settings come from the test profile
+        assertEquals("jdbc:h2:mem:telstradb", environment.getProperty("spring.datasource.url"));
+    }
+
+    @Test
+    public void readinessProbeIsExposed() {
+        ResponseEntity<String> response = restTemplate.getForEntity("/actuator/health/readiness", String.class);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertTrue(response.getBody().contains("\"UP\""), "Readiness should report UP: " + response.getBody());
+    }
+}
@@ -0,0 +1,112 @@
+package au.com.telstra.simcardactivator.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * Unit tests for ActivationDrainCoordinator.
+ * Runs without a Spring context, with short grace and drain durations.
+ */
+public class ActivationDrainCoordinatorTest {
+
+    private ActivationDrainCoordinator coordinator;
+
+    @BeforeEach
+    public void setUp() {
+        coordinator = new ActivationDrainCoordinator();
+        ReflectionTestUtils.setField(coordinator, "statistics", new ActivationStatistics());
+        ReflectionTestUtils.setField(coordinator, "readinessGracePeriod", Duration.ZERO);
+        ReflectionTestUtils.setField(coordinator, "drainTimeout", Duration.ofSeconds(10));
+    }
+
+    @Test
+    public void drainReturnsOnceInFlightRequestIsReleased() throws InterruptedException {
+        assertTrue(coordinator.tryAcquire());
+
+        Thread request = new Thread(() -> {
+            sleep(200);
+            coordinator.release();
+        });
+        request.start();
+
+        long startNanos = System.nanoTime();
+        int stillInFlight = coordinator.drain();
+        long drainMillis = (System.nanoTime() - startNanos) / 1_000_000;
+        request.join();
+
+        assertEquals(0, stillInFlight);
+        assertEquals(0, coordinator.getInFlight());
+        assertTrue(drainMillis < 5_000, "Drain should return as soon as the request is released, took " + drainMillis + " ms");
+    }
+
+    @Test
+    public void rejectsNewRequestsOnceDrainHasStarted() throws InterruptedException {
+        assertTrue(coordinator.tryAcquire());
+        Thread drain = new Thread(coordinator::drain);
+        drain.start();
+
+        // Wait until the drain has stopped admitting requests
+        long deadline = System.currentTimeMillis() + 5_000;
+        boolean admitted = true;
+        while (admitted && System.currentTimeMillis() < deadline) {
+            admitted = coordinator.tryAcquire();
+            if (admitted) {
+                coordinator.release();
+                sleep(10);
+            }
+        }
+
+        assertFalse(admitted, "tryAcquire should return false once drain has started");
+        assertEquals(1, coordinator.getRejectedDuringShutdown());
+        assertFalse(coordinator.tryAcquire());
+        assertEquals(2, coordinator.getRejectedDuringShutdown());
+
+        coordinator.release();
+        drain.join();
+        assertEquals(0, coordinator.getInFlight());
+    }
+
+    @Test
+    public void drainStopsWaitingAtTheDeadline() {
+        ReflectionTestUtils.setField(coordinator, "drainTimeout", Duration.ofMillis(200));
+        assertTrue(coordinator.tryAcquire()); // Never released
+
+        long startNanos = System.nanoTime();
+        int stillInFlight = coordinator.drain();
+        long drainMillis = (System.nanoTime() - startNanos) / 1_000_000;
+
+        assertEquals(1, stillInFlight);
+        assertEquals(1, coordinator.getInFlight());
+        assertTrue(drainMillis >= 150 && drainMillis < 5_000, "Drain should stop at the deadline, took " + drainMillis + " ms");
+    }
+
+    @Test
+    public void concurrentDrainReturnsAtOnce() throws InterruptedException {
+        ReflectionTestUtils.setField(coordinator, "readinessGracePeriod", Duration.ofMillis(500));
+        Thread firstDrain = new Thread(coordinator::drain);
+        firstDrain.start();
+        sleep(100); // Let the first drain enter its grace period
+
+        long startNanos = System.nanoTime();
+        coordinator.drain();
+        long secondDrainMillis = (System.nanoTime() - startNanos) / 1_000_000;
+        firstDrain.join();
+
+        assertTrue(secondDrainMillis < 300, "Second drain should not repeat the sequence, took " + secondDrainMillis + " ms");
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package au.com.telstra.simcardactivator.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import au.com.telstra.simcardactivator.models.StatsResponse;
+import au.com.telstra.simcardactivator.repositories.SimActivationRecordRepository;
+import au.com.telstra.simcardactivator.services.ActivationStatistics.FailureCause;
+
+/**
+ * Unit tests for ActivationStatistics.
+ * Runs without a Spring context; the clock and repository are set directly on the instance.
+ */
+public class ActivationStatisticsTest {
+
+    private static final Instant START = Instant.parse("2026-01-01T00:00:00Z");
+
+    private ActivationStatistics statistics;
+
+    @BeforeEach
+    public void setUp() {
+        statistics = new ActivationStatistics();
+        setTime(START);
+    }
+
+    @Test
+    public void countsSuccessesAndFailures() {
+        statistics.recordSuccess();
+        statistics.recordSuccess();
+        statistics.recordSuccess();
+        statistics.recordFailure(FailureCause.ACTUATOR_REJECTED);
+
+        StatsResponse stats = statistics.snapshot();
+
+        assertEquals(4, stats.getTotalActivations());
+        assertEquals(3, stats.getSuccessfulActivations());
+        assertEquals(1, stats.getFailedActivations());
+        assertEquals(0.75, stats.getSuccessRatio(), 1e-9);
+    }
+
+    @Test
+    public void recordsFailuresUnderTheirCause() {
+        statistics.recordFailure(FailureCause.ACTUATOR_UNREACHABLE);
+        statistics.recordFailure(FailureCause.ACTUATOR_UNREACHABLE);
+        statistics.recordFailure(FailureCause.ACTUATOR_SERVER_ERROR);
+        statistics.recordSaveFailure();
+
+        StatsResponse stats = statistics.snapshot();
+
+        assertEquals(2L, stats.getFailuresByCause().get("ACTUATOR_UNREACHABLE"));
+        assertEquals(1L, stats.getFailuresByCause().get("ACTUATOR_SERVER_ERROR"));
+        assertEquals(0L, stats.getFailuresByCause().get("ACTUATOR_CLIENT_ERROR"));
+        assertEquals(1, stats.getRecordSaveFailures());
+    }
+
+    @Test
+    public void reportsActivationsAndRatioForTheLastMinute() {
+        statistics.recordSuccess();
+        setTime(START.plusSeconds(30));
+        statistics.recordSuccess();
+        statistics.recordFailure(FailureCause.ACTUATOR_REJECTED);
+        statistics.recordFailure(FailureCause.ACTUATOR_REJECTED);
+
+        StatsResponse stats = statistics.snapshot();
+
+        assertEquals(4, stats.getActivationsLastMinute());
+        assertEquals(0.5, stats.getSuccessRatioLastMinute(), 1e-9);
+    }
+
+    @Test
+    public void dropsActivationsOlderThanTheWindow() {
+        statistics.recordSuccess();
+        statistics.recordSuccess();
+
+        // 60 seconds later the first bucket is outside the window and its slot is reused
+        setTime(START.plusSeconds(60));
+        assertEquals(0, statistics.snapshot().getActivationsLastMinute());
+
+        statistics.recordFailure(FailureCause.ACTUATOR_REJECTED);
+        StatsResponse stats = statistics.snapshot();
+
+        assertEquals(1, stats.getActivationsLastMinute());
+        assertEquals(0.0, stats.getSuccessRatioLastMinute(), 1e-9);
+        // Lifetime totals are unaffected by the window
+        assertEquals(3, stats.getTotalActivations());
+    }
+
+    @Test
+    public void countsEveryConcurrentActivationInTheWindow() throws InterruptedException {
+        int threads = 8;
+        int perThread = 10_000;
+        Thread[] workers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            workers[t] = new Thread(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    statistics.recordSuccess();
+                }
+            });
+            workers[t].start();
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+
+        StatsResponse stats = statistics.snapshot();
+
+        assertEquals(threads * perThread, stats.getActivationsLastMinute());
+        assertEquals(threads * perThread, stats.getSuccessfulActivations());
+    }
+
+    @Test
+    public void seedsTotalsFromTheDatabase() {
+        SimActivationRecordRepository repository = mock(SimActivationRecordRepository.class);
+        when(repository.countByActive(true)).thenReturn(7L);
+        when(repository.countByActive(false)).thenReturn(3L);
+        ReflectionTestUtils.setField(statistics, "repository", repository);
+
+        statistics.reconcileWithDatabase();
+        statistics.recordSuccess();
+
+        StatsResponse stats = statistics.snapshot();
+
+        assertEquals(11, stats.getTotalActivations());
+        assertEquals(8, stats.getSuccessfulActivations());
+        assertEquals(3, stats.getFailedActivations());
+        assertEquals(3L, stats.getFailuresByCause().get("UNKNOWN"));
+        // Seeded records carry no timestamp, so only the new activation is in the window
+        assertEquals(1, stats.getActivationsLastMinute());
+    }
+
+    private void setTime(Instant instant) {
+        ReflectionTestUtils.setField(statistics, "clock", Clock.fixed(instant, ZoneOffset.UTC));
+    }
+}
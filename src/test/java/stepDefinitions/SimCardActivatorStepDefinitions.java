@@ -5,6 +5,7 @@ package stepDefinitions;
 // Cucumber annotations for defining test steps
 import org.junit.jupiter.api.Assertions;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
 import org.springframework.boot.test.web.client.TestRestTemplate;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
@@ -15,6 +16,7 @@ import org.springframework.web.client.HttpClientErrorException;
 
 import au.com.telstra.simcardactivator.models.ActivationRequest;
 import au.com.telstra.simcardactivator.models.QueryResponse;
+import au.com.telstra.simcardactivator.models.StatsResponse;
 import io.cucumber.java.en.Given; // Needed for Cucumber to pick up Spring context
 import io.cucumber.java.en.Then;
 import io.cucumber.java.en.When;
@@ -28,6 +30,7 @@ import io.cucumber.spring.CucumberContextConfiguration;
  */
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.DEFINED_PORT) // Starts Spring Boot app on a defined port (8080 by default) for tests
 @CucumberContextConfiguration // Tells Cucumber to use Spring's test context
+@ActiveProfiles("test") // Loads application-test.properties on top of the main configuration
 public class SimCardActivatorStepDefinitions {
 
     // TestRestTemplate is a convenient client for Spring Boot integration tests.
@@ -134,4 +137,21 @@ public class SimCardActivatorStepDefinitions {
             Assertions.fail("Cucumber THEN: An unexpected error occurred during record query: " + e.getMessage());
         }
     }
+
+    /**
+     * THEN step: Verifies the live activation statistics exposed by the /stats endpoint.
+     *
+     * @param expectedSuccesses The expected number of successful activations.
+     * @param expectedFailures The expected number of failed activations.
+     */
+    @Then("the activation statistics should show {long} successful and {long} failed activations")
+    public void the_activation_statistics_should_show_successful_and_failed_activations(long expectedSuccesses, long expectedFailures) {
+        StatsResponse stats = restTemplate.getForObject(baseUrl + "/stats", StatsResponse.class);
+        System.out.println("Cucumber THEN: Retrieved activation statistics: " + stats);
+
+        Assertions.assertNotNull(stats, "Stats response object should not be null");
+        Assertions.assertEquals(expectedSuccesses, stats.getSuccessfulActivations(), "Successful activation count should match");
+        Assertions.assertEquals(expectedFailures, stats.getFailedActivations(), "Failed activation count should match");
+        Assertions.assertEquals(expectedSuccesses + expectedFailures, stats.getTotalActivations(), "Total activation count should match");
+    }
 }
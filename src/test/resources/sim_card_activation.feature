@@ -15,3 +15,7 @@ Feature: SIM Card Activation Management
     Given the SIM card activation service is running
     When an activation request is submitted for ICCID "8944500102198304826" and customer email "fail@example.com"
     Then the SIM activation record with ID 2 should show ICCID "8944500102198304826" and active status false
+
+  Scenario: Activation Statistics Reflect Processed Requests
+    Given the SIM card activation service is running
+    Then the activation statistics should show 1 successful and 1 failed activations